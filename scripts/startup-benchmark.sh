@@ -0,0 +1,115 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time-to-first-redirect and idle RSS.
+#
+# Launches the application with the given command, then measures:
+#   - time until the first successful POST /api/shorten
+#   - time until the first 302 from GET /{shortCode} (time-to-first-redirect)
+#   - resident set size of the JVM after an idle period
+#
+# Usage:
+#   scripts/startup-benchmark.sh [-r runs] [-i idle-seconds] [-p port] -- <command...>
+#
+# Examples:
+#   # Default fat jar
+#   mvn clean package -DskipTests
+#   scripts/startup-benchmark.sh -- java -jar target/url-shortener-1.0.0.jar
+#
+#   # Fast-start mode (AOT + AppCDS), after building the archive once:
+#   mvn clean package -DskipTests -Pfast-start
+#   java -XX:ArchiveClassesAtExit=target/app.jsa -Dspring.aot.enabled=true \
+#        -Dspring.context.exit=onRefresh -jar target/url-shortener-1.0.0.jar
+#   scripts/startup-benchmark.sh -- java -XX:SharedArchiveFile=target/app.jsa \
+#        -Dspring.aot.enabled=true -jar target/url-shortener-1.0.0.jar
+
+set -euo pipefail
+
+RUNS=3
+IDLE_SECONDS=10
+PORT=8080
+TIMEOUT_SECONDS=120
+
+usage() {
+    sed -n '2,/^$/p' "$0" | sed 's/^# \{0,1\}//'
+    exit 1
+}
+
+while getopts "r:i:p:h" opt; do
+    case "$opt" in
+        r) RUNS="$OPTARG" ;;
+        i) IDLE_SECONDS="$OPTARG" ;;
+        p) PORT="$OPTARG" ;;
+        *) usage ;;
+    esac
+done
+shift $((OPTIND - 1))
+[[ "${1:-}" == "--" ]] && shift
+[[ $# -eq 0 ]] && usage
+
+BASE_URL="http://localhost:${PORT}"
+
+now_ms() {
+    date +%s%3N
+}
+
+# RSS in MiB of the JVM: the launched process itself, or its java child
+# when the command is a wrapper script.
+rss_mib() {
+    local pid="$1"
+    local java_pid
+    java_pid=$(pgrep -P "$pid" java || true)
+    [[ -n "$java_pid" ]] && pid="$java_pid"
+    awk '/^VmRSS:/ { printf "%.1f", $2 / 1024 }' "/proc/${pid}/status"
+}
+
+run_once() {
+    local run="$1"
+    shift
+    local start first_shorten first_redirect code status rss app_pid
+
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > "target/startup-benchmark-${run}.log" 2>&1 &
+    app_pid=$!
+
+    code=""
+    until [[ -n "$code" ]]; do
+        if ! kill -0 "$app_pid" 2>/dev/null; then
+            echo "Application exited, see target/startup-benchmark-${run}.log" >&2
+            exit 1
+        fi
+        if (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+            echo "Timed out waiting for the application" >&2
+            kill "$app_pid"
+            exit 1
+        fi
+        code=$(curl -s -X POST "${BASE_URL}/api/shorten" \
+                    -H "Content-Type: application/json" \
+                    -d '{"url": "https://example.com"}' \
+                | sed -n 's/.*"shortCode":"\([^"]*\)".*/\1/p' || true)
+        [[ -z "$code" ]] && sleep 0.05
+    done
+    first_shorten=$(now_ms)
+
+    status=$(curl -s -o /dev/null -w "%{http_code}" "${BASE_URL}/${code}")
+    first_redirect=$(now_ms)
+    if [[ "$status" != "302" ]]; then
+        echo "Expected 302 from /${code}, got ${status}" >&2
+        kill "$app_pid"
+        exit 1
+    fi
+
+    sleep "$IDLE_SECONDS"
+    rss=$(rss_mib "$app_pid")
+
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+
+    printf "%-5s %20s %24s %16s\n" "$run" \
+        "$((first_shorten - start))" "$((first_redirect - start))" "$rss"
+}
+
+mkdir -p target
+printf "%-5s %20s %24s %16s\n" "run" "first-shorten (ms)" "first-redirect (ms)" "idle RSS (MiB)"
+for run in $(seq 1 "$RUNS"); do
+    run_once "$run" "$@"
+done
@@ -0,0 +1,300 @@
+package com.devops.urlshortener.loadtest;
+
+import com.devops.urlshortener.SmartUrlShortenerApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the URL shortener.
+ *
+ * <p>Creates {@code loadtest.links} short links, then issues requests at a fixed
+ * arrival rate regardless of how fast the server answers. Redirect and stats keys
+ * follow a Zipfian distribution. Response time is measured from each request's
+ * intended start time, so server stalls show up in the percentiles instead of
+ * silently lowering the offered load (coordinated omission).
+ *
+ * <p>Run with {@code mvn -Pload-test verify -DskipTests -Dloadtest.rate=1000}.
+ * Without {@code loadtest.target} the application is started in-process on a
+ * random port; program arguments are passed to it as Spring arguments.
+ */
+public class LoadTestHarness {
+
+    private static final int SETUP_BATCH_SIZE = 64;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestSettings settings;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    LoadTestHarness(LoadTestSettings settings, String baseUrl) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = settings.target();
+        if (baseUrl.isEmpty()) {
+            String[] appArgs = Arrays.copyOf(args, args.length + 1);
+            appArgs[args.length] = "--server.port=0";
+            context = SpringApplication.run(SmartUrlShortenerApplication.class, appArgs);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+        }
+
+        LoadTestHarness harness = new LoadTestHarness(settings, baseUrl);
+        try {
+            harness.run();
+        } finally {
+            harness.executor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    void run() throws InterruptedException {
+        List<String> shortCodes = createLinks();
+        ZipfianGenerator keys = new ZipfianGenerator(shortCodes.size(), settings.zipfExponent());
+        Random random = new Random(settings.seed());
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        long intended = start;
+        long sequence = 0;
+        while (intended < end) {
+            sleepUntil(intended);
+            boolean measured = intended >= measureFrom;
+
+            if (outstanding.get() >= settings.maxOutstanding()) {
+                if (measured) {
+                    dropped.increment();
+                }
+            } else {
+                Operation operation = pickOperation(random);
+                String shortCode = shortCodes.get(keys.next(random));
+                send(operation, request(operation, shortCode, sequence), intended, measured);
+            }
+
+            sequence++;
+            intended += settings.poisson()
+                    ? (long) (-Math.log(1 - random.nextDouble()) * intervalNanos)
+                    : intervalNanos;
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        report(keys, shortCodes.size());
+    }
+
+    private List<String> createLinks() {
+        List<String> shortCodes = new ArrayList<>(settings.links());
+        for (int from = 0; from < settings.links(); from += SETUP_BATCH_SIZE) {
+            int to = Math.min(from + SETUP_BATCH_SIZE, settings.links());
+            List<CompletableFuture<HttpResponse<String>>> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(client.sendAsync(shortenRequest("https://example.com/setup/" + i),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> future : batch) {
+                HttpResponse<String> response = future.join();
+                if (response.statusCode() != Operation.SHORTEN.expectedStatus) {
+                    throw new IllegalStateException("Link creation failed with status " + response.statusCode());
+                }
+                shortCodes.add(readShortCode(response.body()));
+            }
+        }
+        // Decouple popularity rank from creation order
+        Collections.shuffle(shortCodes, new Random(settings.seed()));
+        return shortCodes;
+    }
+
+    private String readShortCode(String body) {
+        try {
+            return objectMapper.readTree(body).get("shortCode").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected shorten response: " + body, e);
+        }
+    }
+
+    private Operation pickOperation(Random random) {
+        int total = settings.shortenWeight() + settings.redirectWeight() + settings.statsWeight();
+        int value = random.nextInt(total);
+        if (value < settings.shortenWeight()) {
+            return Operation.SHORTEN;
+        }
+        if (value < settings.shortenWeight() + settings.redirectWeight()) {
+            return Operation.REDIRECT;
+        }
+        return Operation.STATS;
+    }
+
+    private HttpRequest request(Operation operation, String shortCode, long sequence) {
+        switch (operation) {
+            case SHORTEN:
+                return shortenRequest("https://example.com/load/" + sequence);
+            case REDIRECT:
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/" + shortCode)).GET().build();
+            default:
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/stats/" + shortCode)).GET().build();
+        }
+    }
+
+    private HttpRequest shortenRequest(String url) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/shorten"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"url\":\"" + url + "\"}"))
+                .build();
+    }
+
+    private void send(Operation operation, HttpRequest request, long intended, boolean measured) {
+        outstanding.incrementAndGet();
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long done = System.nanoTime();
+                    outstanding.decrementAndGet();
+                    if (!measured) {
+                        return;
+                    }
+                    OperationStats operationStats = stats.get(operation);
+                    if (error != null || response.statusCode() != operation.expectedStatus) {
+                        operationStats.errors.increment();
+                    } else {
+                        operationStats.responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(done - intended));
+                        operationStats.serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(done - sent));
+                    }
+                });
+    }
+
+    private void report(ZipfianGenerator keys, int links) {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        int hotKeys = Math.max(1, links / 100);
+
+        System.out.println();
+        System.out.printf("Load test against %s%n", baseUrl);
+        System.out.printf("  arrival rate %.0f req/s (%s), warm-up %ds, measured %ds%n",
+                settings.rate(), settings.poisson() ? "poisson" : "constant",
+                settings.warmup().toSeconds(), settings.duration().toSeconds());
+        System.out.printf("  %d links, zipf exponent %.2f: top %d links get %.1f%% of key lookups%n",
+                links, settings.zipfExponent(), hotKeys, keys.share(hotKeys) * 100);
+        System.out.printf("  mix shorten:redirect:stats = %d:%d:%d%n",
+                settings.shortenWeight(), settings.redirectWeight(), settings.statsWeight());
+        System.out.println();
+        System.out.println("Response time from intended start (ms); service time p99 for comparison");
+        System.out.printf("%-9s %9s %7s %9s %8s %8s %8s %8s %9s %12s%n",
+                "operation", "ok", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max", "service p99");
+
+        Histogram allResponses = new Histogram(3);
+        Histogram allServices = new Histogram(3);
+        long allErrors = 0;
+        for (Operation operation : Operation.values()) {
+            OperationStats operationStats = stats.get(operation);
+            printRow(operation.name().toLowerCase(), operationStats.responseTime, operationStats.serviceTime,
+                    operationStats.errors.sum(), seconds);
+            allResponses.add(operationStats.responseTime);
+            allServices.add(operationStats.serviceTime);
+            allErrors += operationStats.errors.sum();
+        }
+        printRow("total", allResponses, allServices, allErrors, seconds);
+
+        System.out.println();
+        System.out.printf("Dropped arrivals (over %d in flight): %d%n", settings.maxOutstanding(), dropped.sum());
+        System.out.printf("Still in flight at end of run: %d%n", outstanding.get());
+    }
+
+    private static void printRow(String name, Histogram responseTime, Histogram serviceTime,
+                                 long errors, double seconds) {
+        System.out.printf("%-9s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %9.2f %12.2f%n",
+                name,
+                responseTime.getTotalCount(),
+                errors,
+                responseTime.getTotalCount() / seconds,
+                millis(responseTime.getValueAtPercentile(50)),
+                millis(responseTime.getValueAtPercentile(90)),
+                millis(responseTime.getValueAtPercentile(99)),
+                millis(responseTime.getValueAtPercentile(99.9)),
+                millis(responseTime.getMaxValue()),
+                millis(serviceTime.getValueAtPercentile(99)));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private enum Operation {
+        SHORTEN(201),
+        REDIRECT(302),
+        STATS(200);
+
+        private final int expectedStatus;
+
+        Operation(int expectedStatus) {
+            this.expectedStatus = expectedStatus;
+        }
+    }
+
+    private static final class OperationStats {
+        private final Histogram responseTime = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
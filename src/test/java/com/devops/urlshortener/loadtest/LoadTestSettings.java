@@ -0,0 +1,86 @@
+package com.devops.urlshortener.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties.
+ *
+ * @param target         base URL of a running instance; empty to start the app in-process
+ * @param links          number of short links created before the run
+ * @param zipfExponent   skew of the redirect key distribution (0 = uniform)
+ * @param rate           open-model arrival rate in requests per second
+ * @param poisson        exponential inter-arrival times instead of a constant interval
+ * @param warmup         duration of the discarded warm-up phase
+ * @param duration       duration of the measured phase
+ * @param shortenWeight  relative weight of POST /api/shorten
+ * @param redirectWeight relative weight of GET /{shortCode}
+ * @param statsWeight    relative weight of GET /api/stats/{shortCode}
+ * @param maxOutstanding requests in flight above which new arrivals are dropped
+ * @param seed           seed for key and operation selection
+ */
+record LoadTestSettings(
+        String target,
+        int links,
+        double zipfExponent,
+        double rate,
+        boolean poisson,
+        Duration warmup,
+        Duration duration,
+        int shortenWeight,
+        int redirectWeight,
+        int statsWeight,
+        int maxOutstanding,
+        long seed) {
+
+    private static final String PREFIX = "loadtest.";
+
+    LoadTestSettings {
+        if (links <= 0) {
+            throw new IllegalArgumentException("loadtest.links must be positive: " + links);
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive: " + rate);
+        }
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException("loadtest.warmup must not be negative: " + warmup.toSeconds());
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("loadtest.duration must be positive: " + duration.toSeconds());
+        }
+        if (maxOutstanding <= 0) {
+            throw new IllegalArgumentException("loadtest.max-outstanding must be positive: " + maxOutstanding);
+        }
+        if (shortenWeight < 0 || redirectWeight < 0 || statsWeight < 0
+                || shortenWeight + redirectWeight + statsWeight == 0) {
+            throw new IllegalArgumentException("loadtest.mix must have non-negative weights with a positive sum");
+        }
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        String[] mix = property("mix", "5:90:5").split(":");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("loadtest.mix must be shorten:redirect:stats, e.g. 5:90:5");
+        }
+        String arrival = property("arrival", "poisson");
+        if (!"poisson".equals(arrival) && !"constant".equals(arrival)) {
+            throw new IllegalArgumentException("loadtest.arrival must be poisson or constant: " + arrival);
+        }
+        return new LoadTestSettings(
+                property("target", ""),
+                Integer.parseInt(property("links", "1000")),
+                Double.parseDouble(property("zipf", "0.99")),
+                Double.parseDouble(property("rate", "500")),
+                "poisson".equals(arrival),
+                Duration.ofSeconds(Long.parseLong(property("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("duration", "30"))),
+                Integer.parseInt(mix[0].trim()),
+                Integer.parseInt(mix[1].trim()),
+                Integer.parseInt(mix[2].trim()),
+                Integer.parseInt(property("max-outstanding", "10000")),
+                Long.parseLong(property("seed", "42")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
@@ -0,0 +1,48 @@
+package com.devops.urlshortener.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples item ranks from a Zipfian distribution: rank {@code k} (0-based) is
+ * drawn with probability proportional to {@code 1 / (k + 1)^exponent}.
+ * Rank 0 is the hottest item.
+ */
+final class ZipfianGenerator {
+
+    private final double[] cdf;
+
+    ZipfianGenerator(int items, double exponent) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("items must be positive: " + items);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must not be negative: " + exponent);
+        }
+        cdf = new double[items];
+        double sum = 0;
+        for (int k = 0; k < items; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < items; k++) {
+            cdf[k] /= sum;
+        }
+        cdf[items - 1] = 1.0;
+    }
+
+    int next(Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Fraction of all samples that fall on the {@code topItems} hottest ranks.
+     */
+    double share(int topItems) {
+        if (topItems <= 0) {
+            return 0;
+        }
+        return cdf[Math.min(topItems, cdf.length) - 1];
+    }
+}
@@ -0,0 +1,80 @@
+package com.devops.urlshortener.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfianGeneratorTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void next_ExponentZero_IsUniform() {
+        ZipfianGenerator generator = new ZipfianGenerator(10, 0);
+        int[] counts = sample(generator, 10, new Random(42));
+
+        for (int count : counts) {
+            // Expected 10_000 per rank; allow 5% deviation
+            assertEquals(SAMPLES / 10.0, count, SAMPLES / 10.0 * 0.05);
+        }
+        assertEquals(0.5, generator.share(5), 1e-9);
+    }
+
+    @Test
+    void share_AllItems_ReturnsOne() {
+        ZipfianGenerator generator = new ZipfianGenerator(1000, 0.99);
+
+        assertEquals(1.0, generator.share(1000));
+        assertEquals(1.0, generator.share(5000));
+        assertEquals(0.0, generator.share(0));
+    }
+
+    @Test
+    void next_AlwaysInRange() {
+        ZipfianGenerator generator = new ZipfianGenerator(7, 1.5);
+        Random random = new Random(42);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            int rank = generator.next(random);
+            assertTrue(rank >= 0 && rank < 7, "Rank out of range: " + rank);
+        }
+    }
+
+    @Test
+    void next_SingleItem_AlwaysReturnsZero() {
+        ZipfianGenerator generator = new ZipfianGenerator(1, 0.99);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, generator.next(random));
+        }
+    }
+
+    @Test
+    void next_FixedSeed_RankZeroIsHottest() {
+        ZipfianGenerator generator = new ZipfianGenerator(100, 0.99);
+        int[] counts = sample(generator, 100, new Random(42));
+
+        for (int rank = 1; rank < counts.length; rank++) {
+            assertTrue(counts[0] > counts[rank],
+                    "Rank 0 sampled " + counts[0] + " times, rank " + rank + " sampled " + counts[rank]);
+        }
+        assertEquals(generator.share(1), (double) counts[0] / SAMPLES, 0.01);
+    }
+
+    @Test
+    void constructor_InvalidArguments_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(0, 0.99));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(10, -1));
+    }
+
+    private int[] sample(ZipfianGenerator generator, int items, Random random) {
+        int[] counts = new int[items];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[generator.next(random)]++;
+        }
+        return counts;
+    }
+}